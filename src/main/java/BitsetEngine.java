@@ -0,0 +1,98 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Движок для плотных неориентированных графов: проверка PEO и поиск индуцированных C4 выполняются
+ * над битовыми множествами смежности, остальные шаги берутся из основного конвейера.
+ */
+public class BitsetEngine implements RecognitionEngine {
+    static final String NAME = "bitset";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(GraphStats stats) {
+        // Поиск C4 ниже опирается на симметричность смежности
+        return !stats.direct();
+    }
+
+    @Override
+    public boolean recognize(IsIntervalGraph pipeline, Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+        return pipeline.recognize(graph, adjacencyMap, stats,
+                (g, order, adjacency) -> isPerfectEliminationOrder(pipeline, order, adjacency));
+    }
+
+    // Та же проверка, что IsIntervalGraph.isPerfectEliminationOrder: несвязанная пара правых соседей
+    // допустима, пока через неё не проходит индуцированный C4
+    private boolean isPerfectEliminationOrder(IsIntervalGraph pipeline, List<Integer> order, Map<Integer, Set<Integer>> adjacencyMap) {
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        for (Integer v : adjacencyMap.keySet()) {
+            indexOf.put(v, indexOf.size());
+        }
+        BitSet[] adjacency = new BitSet[indexOf.size()];
+        for (Map.Entry<Integer, Set<Integer>> entry : adjacencyMap.entrySet()) {
+            BitSet row = new BitSet(indexOf.size());
+            for (int u : entry.getValue()) {
+                Integer ui = indexOf.get(u);
+                if (ui != null) row.set(ui);
+            }
+            adjacency[indexOf.get(entry.getKey())] = row;
+        }
+
+        BitSet remaining = new BitSet(adjacency.length);
+        remaining.set(0, adjacency.length);
+        for (int vertex : order) {
+            int v = indexOf.get(vertex);
+            remaining.clear(v);
+            BitSet right = (BitSet) adjacency[v].clone();
+            right.and(remaining);
+            for (int u1 = right.nextSetBit(0); u1 >= 0; u1 = right.nextSetBit(u1 + 1)) {
+                for (int u2 = right.nextSetBit(u1 + 1); u2 >= 0; u2 = right.nextSetBit(u2 + 1)) {
+                    if (!adjacency[u1].get(u2) && hasInducedC4(v, u1, u2, adjacency)) {
+                        if (pipeline.isTracing()) System.out.println("Найден индуцированный C4 с вершинами " + vertex + " (правые соседи не связаны)");
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean hasInducedC4(int v, int u1, int u2, BitSet[] adjacency) {
+        // Кандидаты w: смежны с u1 и u2, но не с v
+        BitSet candidates = (BitSet) adjacency[u1].clone();
+        candidates.and(adjacency[u2]);
+        candidates.andNot(adjacency[v]);
+        candidates.clear(v);
+        candidates.clear(u1);
+        candidates.clear(u2);
+        BitSet u1OrU2 = (BitSet) adjacency[u1].clone();
+        u1OrU2.or(adjacency[u2]);
+        for (int w = candidates.nextSetBit(0); w >= 0; w = candidates.nextSetBit(w + 1)) {
+            // Вершины x, образующие треугольник v-u1-w, v-u2-w или u1-w-u2
+            BitSet chords = (BitSet) adjacency[v].clone();
+            chords.and(adjacency[w]);
+            chords.and(u1OrU2);
+            BitSet middle = (BitSet) adjacency[u1].clone();
+            middle.and(adjacency[w]);
+            middle.and(adjacency[u2]);
+            chords.or(middle);
+            chords.clear(v);
+            chords.clear(u1);
+            chords.clear(u2);
+            chords.clear(w);
+            if (chords.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
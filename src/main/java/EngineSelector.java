@@ -0,0 +1,251 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * Выбирает движок распознавания по {@link GraphStats}. Селектор хранит упорядоченный список маршрутов
+ * «условие на статистику → движок» и отдаёт первый подходящий; последним всегда стоит основной конвейер
+ * {@link LexBfsEngine}. По умолчанию маленькие графы (n &lt; {@value #TINY_GRAPH_MAX_VERTICES}) сразу идут
+ * в основной конвейер, большие плотные неориентированные — в {@link BitsetEngine}.
+ * Для маршрутизации нужны только n, плотность и ориентированность: m и число компонент уже учтены
+ * в плотности и в признаке леса, который конвейер проверяет сам, а максимальная степень не говорит,
+ * окупятся ли битовые строки — их стоимость n²/64 слов окупается только при большой суммарной плотности.
+ * Движки сторонних модулей добавляются через {@link #register} или ServiceLoader
+ * (META-INF/services/RecognitionEngine, маршрут — {@link RecognitionEngine#supports}).
+ * Движки дают одинаковые ответы, поэтому выбор влияет только на время.
+ * <p>
+ * {@link #calibrate(List)} замеряет все зарегистрированные движки на выборке графов и для каждой группы
+ * графов (ориентированность, порядок n, четверть плотности) запоминает самый быстрый; такие маршруты
+ * проверяются раньше маршрутов по умолчанию и сохраняются в файл свойств.
+ */
+public class EngineSelector {
+    // Ниже этого порядка подготовка любого движка дороже самого распознавания
+    static final int TINY_GRAPH_MAX_VERTICES = 16;
+    static final int DEFAULT_BITSET_MIN_VERTICES = 64;
+    static final double DEFAULT_BITSET_MIN_DENSITY = 0.5;
+    static final int CALIBRATION_RUNS = 3;
+
+    static final String ROUTE_KEY_PREFIX = "route.";
+
+    static final String THRESHOLDS_PROPERTY = "isIntervalGraph.engineThresholds";
+    static final String THRESHOLDS_RESOURCE = "/is-interval-graph-engines.properties";
+
+    private record Route(RecognitionEngine engine, Predicate<GraphStats> condition) {
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+    private final RecognitionEngine fallbackEngine = new LexBfsEngine();
+
+    // Группа графов → имя самого быстрого движка по результатам калибровки
+    private volatile Map<String, String> calibratedRoutes = Collections.emptyMap();
+
+    /**
+     * Селектор со встроенными движками и движками, найденными через ServiceLoader.
+     */
+    public EngineSelector() {
+        register(fallbackEngine, stats -> stats.vertexCount() < TINY_GRAPH_MAX_VERTICES);
+        register(new BitsetEngine(), stats -> stats.vertexCount() >= DEFAULT_BITSET_MIN_VERTICES
+                && stats.density() >= DEFAULT_BITSET_MIN_DENSITY);
+        for (RecognitionEngine engine : ServiceLoader.load(RecognitionEngine.class)) {
+            register(engine, engine::supports);
+        }
+    }
+
+    private static final class DefaultHolder {
+        static final EngineSelector INSTANCE = loadDefault();
+    }
+
+    /**
+     * Общий селектор для проверок, созданных без явного селектора. Строится один раз при первом обращении;
+     * калибровка или загрузка маршрутов через него действует на все такие проверки.
+     */
+    public static EngineSelector getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Новый селектор по умолчанию: маршруты калибровки читаются из файла, заданного системным свойством
+     * {@value #THRESHOLDS_PROPERTY}, или из ресурса {@value #THRESHOLDS_RESOURCE} в classpath;
+     * если ни одного нет или файл не читается, остаются только маршруты по умолчанию.
+     */
+    static EngineSelector loadDefault() {
+        EngineSelector selector = new EngineSelector();
+        String path = System.getProperty(THRESHOLDS_PROPERTY);
+        try {
+            if (path != null) {
+                selector.load(Path.of(path));
+            } else {
+                try (InputStream in = EngineSelector.class.getResourceAsStream(THRESHOLDS_RESOURCE)) {
+                    if (in != null) {
+                        selector.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.out.println("Не удалось загрузить маршруты движков (" + e.getMessage() + "), используются маршруты по умолчанию");
+            selector.calibratedRoutes = Collections.emptyMap();
+        }
+        return selector;
+    }
+
+    /**
+     * Добавляет маршрут после уже зарегистрированных и перед основным конвейером: движок выбирается для графов, на которых выполняются
+     * и условие, и {@link RecognitionEngine#supports}. Маршруты проверяются в порядке регистрации.
+     */
+    public EngineSelector register(RecognitionEngine engine, Predicate<GraphStats> condition) {
+        routes.add(new Route(engine, condition));
+        return this;
+    }
+
+    public RecognitionEngine select(GraphStats stats) {
+        String calibrated = calibratedRoutes.get(groupOf(stats));
+        if (calibrated != null) {
+            for (RecognitionEngine engine : getEngines()) {
+                if (engine.name().equals(calibrated) && engine.supports(stats)) {
+                    return engine;
+                }
+            }
+        }
+        for (Route route : routes) {
+            if (route.engine().supports(stats) && route.condition().test(stats)) {
+                return route.engine();
+            }
+        }
+        return fallbackEngine;
+    }
+
+    /**
+     * Зарегистрированные движки в порядке маршрутов, основной конвейер — последним.
+     */
+    public List<RecognitionEngine> getEngines() {
+        Map<String, RecognitionEngine> engines = new LinkedHashMap<>();
+        for (Route route : routes) {
+            if (route.engine() != fallbackEngine) {
+                engines.putIfAbsent(route.engine().name(), route.engine());
+            }
+        }
+        engines.putIfAbsent(fallbackEngine.name(), fallbackEngine);
+        return new ArrayList<>(engines.values());
+    }
+
+    // Группа калибровки: ориентированность, ⌊log2 n⌋ и четверть плотности
+    static String groupOf(GraphStats stats) {
+        int sizeClass = 31 - Integer.numberOfLeadingZeros(stats.vertexCount());
+        int densityClass = Math.min(3, (int) (stats.density() * 4));
+        return (stats.direct() ? "directed" : "undirected") + "." + sizeClass + "." + densityClass;
+    }
+
+    /**
+     * Замеряет все зарегистрированные движки на выборке графов и для каждой группы выбирает движок
+     * с наименьшим суммарным временем среди тех, что поддерживают все графы группы. Группы, которых нет
+     * в выборке, сохраняют прежние маршруты. Замеры идут на конвейере без трассировки,
+     * чтобы время вывода в консоль не попадало в результат.
+     */
+    public void calibrate(List<Graph> sample) {
+        IsIntervalGraph quiet = new IsIntervalGraph(IsIntervalGraph.DEFAULT_PARALLEL_THRESHOLD, false, this);
+        List<RecognitionEngine> engines = getEngines();
+        Map<String, Integer> graphsPerGroup = new TreeMap<>();
+        Map<String, Map<String, long[]>> timings = new TreeMap<>(); // группа → движок → {графов, нс}
+        for (Graph graph : sample) {
+            if (graph.getVertexList() == null || graph.getVertexList().isEmpty()) continue;
+            Map<Integer, Set<Integer>> adjacencyMap = quiet.buildAdjacencyMap(graph);
+            GraphStats stats = GraphStats.of(graph, adjacencyMap);
+            String group = groupOf(stats);
+            graphsPerGroup.merge(group, 1, Integer::sum);
+            for (RecognitionEngine engine : engines) {
+                if (!engine.supports(stats)) continue;
+                long[] total = timings.computeIfAbsent(group, g -> new LinkedHashMap<>())
+                        .computeIfAbsent(engine.name(), name -> new long[2]);
+                total[0]++;
+                total[1] += time(quiet, engine, graph, adjacencyMap, stats);
+            }
+        }
+        if (graphsPerGroup.isEmpty()) {
+            System.out.println("Калибровка: в выборке нет подходящих графов, маршруты не изменены");
+            return;
+        }
+
+        Map<String, String> calibrated = new TreeMap<>(calibratedRoutes);
+        for (Map.Entry<String, Integer> group : graphsPerGroup.entrySet()) {
+            String best = null;
+            long bestTime = Long.MAX_VALUE;
+            // При равном времени остаётся движок, зарегистрированный раньше
+            for (Map.Entry<String, long[]> entry : timings.getOrDefault(group.getKey(), Collections.emptyMap()).entrySet()) {
+                long[] total = entry.getValue();
+                if (total[0] == group.getValue() && total[1] < bestTime) {
+                    best = entry.getKey();
+                    bestTime = total[1];
+                }
+            }
+            if (best != null) {
+                calibrated.put(group.getKey(), best);
+            }
+        }
+        calibratedRoutes = Collections.unmodifiableMap(calibrated);
+        System.out.println("Калибровка: " + calibratedRoutes);
+    }
+
+    private long time(IsIntervalGraph pipeline, RecognitionEngine engine, Graph graph,
+                      Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+        engine.recognize(pipeline, graph, adjacencyMap, stats); // Прогрев JIT, не замеряется
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < CALIBRATION_RUNS; run++) {
+            long start = System.nanoTime();
+            engine.recognize(pipeline, graph, adjacencyMap, stats);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public void store(Path path) throws IOException {
+        Properties properties = new Properties();
+        for (Map.Entry<String, String> route : calibratedRoutes.entrySet()) {
+            properties.setProperty(ROUTE_KEY_PREFIX + route.getKey(), route.getValue());
+        }
+        try (Writer writer = Files.newBufferedWriter(path)) {
+            properties.store(writer, "IsIntervalGraph engine routes");
+        }
+    }
+
+    public void load(Path path) throws IOException {
+        try (Reader reader = Files.newBufferedReader(path)) {
+            load(reader);
+        }
+    }
+
+    private void load(Reader reader) throws IOException {
+        Properties properties = new Properties();
+        properties.load(reader);
+        Map<String, String> loaded = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(ROUTE_KEY_PREFIX)) {
+                loaded.put(key.substring(ROUTE_KEY_PREFIX.length()), properties.getProperty(key));
+            }
+        }
+        calibratedRoutes = Collections.unmodifiableMap(loaded);
+    }
+
+    /**
+     * Маршруты, подобранные калибровкой или загруженные из файла: группа графов → имя движка.
+     */
+    public Map<String, String> getCalibratedRoutes() {
+        return calibratedRoutes;
+    }
+}
@@ -0,0 +1,74 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Дешёвая статистика графа для выбора движка, считается по списку смежности за O(n + m).
+ *
+ * @param edgeCount      число различных рёбер без петель (для ориентированного графа — дуг)
+ * @param density        доля присутствующих рёбер от максимально возможного числа
+ * @param componentCount число (слабо) связных компонент
+ */
+public record GraphStats(int vertexCount, long edgeCount, double density, int maxDegree, int componentCount,
+                         boolean direct, boolean hasLoops) {
+
+    public static GraphStats of(Graph graph, Map<Integer, Set<Integer>> adjacencyMap) {
+        int n = adjacencyMap.size();
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        for (Integer v : adjacencyMap.keySet()) {
+            indexOf.put(v, indexOf.size());
+        }
+
+        // Система непересекающихся множеств для подсчёта компонент
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) parent[i] = i;
+        int components = n;
+
+        long arcs = 0;
+        int maxDegree = 0;
+        boolean hasLoops = false;
+        for (Map.Entry<Integer, Set<Integer>> entry : adjacencyMap.entrySet()) {
+            int v = entry.getKey();
+            int degree = 0;
+            for (int u : entry.getValue()) {
+                Integer ui = indexOf.get(u);
+                if (ui == null) continue;
+                if (u == v) {
+                    hasLoops = true;
+                    continue;
+                }
+                degree++;
+                int a = find(parent, indexOf.get(v));
+                int b = find(parent, ui);
+                if (a != b) {
+                    parent[a] = b;
+                    components--;
+                }
+            }
+            arcs += degree;
+            maxDegree = Math.max(maxDegree, degree);
+        }
+
+        long edges = graph.isDirect() ? arcs : arcs / 2;
+        double pairs = n < 2 ? 0 : (double) n * (n - 1) / (graph.isDirect() ? 1 : 2);
+        double density = pairs == 0 ? 1.0 : edges / pairs;
+        return new GraphStats(n, edges, density, maxDegree, components, graph.isDirect(), hasLoops);
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    /**
+     * Неориентированный граф без петель и циклов: m = n - c.
+     */
+    public boolean isForest() {
+        return !direct && !hasLoops && edgeCount == (long) vertexCount - componentCount;
+    }
+}
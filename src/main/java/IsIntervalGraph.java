@@ -4,61 +4,218 @@ import ru.leti.wise.task.graph.model.Edge;
 import ru.leti.wise.task.plugin.graph.GraphProperty;
 
 import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 
 public class IsIntervalGraph implements GraphProperty {
+    // Число рёбер (для построения смежности) или вершин (для поповершинных проверок),
+    // начиная с которого этап выполняется параллельно в общем ForkJoinPool
+    static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 15;
+
+    private final int parallelThreshold;
+    private final boolean tracing;
+    private final EngineSelector engineSelector;
+
+    public IsIntervalGraph() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Проверка с заданным набором движков, например с дополнительно зарегистрированными.
+     */
+    public IsIntervalGraph(EngineSelector engineSelector) {
+        this(DEFAULT_PARALLEL_THRESHOLD, true, engineSelector);
+    }
+
+    IsIntervalGraph(int parallelThreshold) {
+        this(parallelThreshold, true, EngineSelector.getDefault());
+    }
+
+    IsIntervalGraph(int parallelThreshold, boolean tracing, EngineSelector engineSelector) {
+        this.parallelThreshold = parallelThreshold;
+        this.tracing = tracing;
+        this.engineSelector = engineSelector;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    /**
+     * Селектор движков распознавания; через него можно зарегистрировать движки, откалибровать или загрузить маршруты.
+     */
+    public EngineSelector getEngineSelector() {
+        return engineSelector;
+    }
+
     @Override
     public boolean run(Graph graph) {
         List<Vertex> vertices = graph.getVertexList();
-        System.out.println("Вершины: " + vertices.stream().map(Vertex::getId).toList());
-        System.out.println("Рёбра: " + graph.getEdgeList());
+        if (tracing) System.out.println("Вершины: " + vertices.stream().map(Vertex::getId).toList());
+        if (tracing) System.out.println("Рёбра: " + graph.getEdgeList());
         int n = vertices.size();
         if (n == 0) return true; // Пустой граф является интервальным
 
         // Шаг 0: строим матрицу смежности
         Map<Integer, Set<Integer>> adjacencyMap = buildAdjacencyMap(graph);
 
+        // Выбираем движок по дешёвой статистике графа
+        GraphStats stats = GraphStats.of(graph, adjacencyMap);
+        RecognitionEngine engine = engineSelector.select(stats);
+        if (tracing) System.out.println("Движок: " + engine.name() + ", " + stats);
+        return engine.recognize(this, graph, adjacencyMap, stats);
+    }
+
+    /**
+     * Проверка шага 2: является ли порядок Lex-BFS совершенным порядком исключения.
+     * Движки могут подставить свою реализацию, сохранив остальные шаги конвейера.
+     */
+    @FunctionalInterface
+    public interface EliminationOrderCheck {
+        boolean test(Graph graph, List<Integer> order, Map<Integer, Set<Integer>> adjacencyMap);
+    }
+
+    /**
+     * Основной конвейер: Lex-BFS, проверка PEO, максимальные клики и их последовательность.
+     */
+    public boolean recognize(Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+        return recognize(graph, adjacencyMap, stats, this::isPerfectEliminationOrder);
+    }
+
+    /**
+     * Основной конвейер с заданной проверкой шага 2; stats — статистика, уже посчитанная при выборе движка.
+     */
+    public boolean recognize(Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats,
+                             EliminationOrderCheck eliminationOrderCheck) {
+        List<Vertex> vertices = graph.getVertexList();
+
+        // Для леса поиск пути клик не нужен: достаточно проверить, что каждое дерево — гусеница
+        if (stats.isForest()) {
+            return isCaterpillarForest(adjacencyMap);
+        }
+
         // Шаг 1: Выполнить лексикографический поиск в ширину (Lex-BFS)
         List<Integer> lexBFSOrder = performLexBFS(graph, adjacencyMap);
-        System.out.println("Порядок Lex-BFS: " + lexBFSOrder);
+        if (tracing) System.out.println("Порядок Lex-BFS: " + lexBFSOrder);
 
         // Шаг 2: Проверить, является ли порядок совершенным порядком исключения
-        if (!isPerfectEliminationOrder(graph, lexBFSOrder, adjacencyMap)) {
-            System.out.println("Граф не является хордальным");
+        if (!eliminationOrderCheck.test(graph, lexBFSOrder, adjacencyMap)) {
+            if (tracing) System.out.println("Граф не является хордальным");
             return false;
         }
 
         // Шаг 3: Вычислить максимальные клики
         List<Set<Integer>> maximalCliques = computeMaximalCliques(graph, lexBFSOrder, adjacencyMap);
-        System.out.println("Максимальные клики: " + maximalCliques);
+        if (tracing) System.out.println("Максимальные клики: " + maximalCliques);
+
+        CliqueIndex cliqueIndex = buildCliqueIndex(maximalCliques);
 
         // Шаг 4: Проверить последовательность клик
-        if (!checkConsecutiveCliques(maximalCliques, vertices)) {
-            System.out.println("Клики не образуют последовательный порядок");
+        if (!checkConsecutiveCliques(maximalCliques, cliqueIndex, vertices)) {
+            if (tracing) System.out.println("Клики не образуют последовательный порядок");
             return false;
         }
 
         return true; // Граф является интервальным
     }
 
-    private boolean checkConsecutiveCliques(List<Set<Integer>> cliques, List<Vertex> vertices) {
+    /**
+     * Лес интервальный тогда и только тогда, когда каждое его дерево — гусеница,
+     * то есть у любой вершины не более двух соседей степени ≥ 2. Проверка за O(n + m).
+     */
+    boolean isCaterpillarForest(Map<Integer, Set<Integer>> adjacencyMap) {
+        for (Map.Entry<Integer, Set<Integer>> entry : adjacencyMap.entrySet()) {
+            int innerNeighbours = 0;
+            for (int u : entry.getValue()) {
+                if (adjacencyMap.getOrDefault(u, Collections.emptySet()).size() >= 2) {
+                    innerNeighbours++;
+                }
+            }
+            if (innerNeighbours > 2) {
+                if (tracing) System.out.println("Вершина " + entry.getKey() + " имеет " + innerNeighbours + " невисячих соседей: лес не является гусеницей");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Инвертированный индекс клик в формате CSR: вершины получают плотные номера, номера клик вершины i
+     * лежат в cliqueIds[offsets[i]..offsets[i + 1]) по возрастанию. Сам индекс строится за O(Σ|C|);
+     * граф пересечений клик по нему — см. оценку в getCliquePathOrder.
+     */
+    static final class CliqueIndex {
+        final Map<Integer, Integer> vertexIndex;
+        final int[][] cliqueMembers; // плотные номера вершин каждой клики
+        final int[] offsets;
+        final int[] cliqueIds;
+
+        private CliqueIndex(Map<Integer, Integer> vertexIndex, int[][] cliqueMembers, int[] offsets, int[] cliqueIds) {
+            this.vertexIndex = vertexIndex;
+            this.cliqueMembers = cliqueMembers;
+            this.offsets = offsets;
+            this.cliqueIds = cliqueIds;
+        }
+    }
+
+    CliqueIndex buildCliqueIndex(List<Set<Integer>> cliques) {
+        Map<Integer, Integer> vertexIndex = new HashMap<>();
+        int[][] cliqueMembers = new int[cliques.size()][];
+        int total = 0;
+        for (Set<Integer> clique : cliques) {
+            total += clique.size();
+        }
+        int[] counts = new int[total]; // различных вершин не больше Σ|C|
+        for (int c = 0; c < cliques.size(); c++) {
+            int[] members = new int[cliques.get(c).size()];
+            int k = 0;
+            for (int v : cliques.get(c)) {
+                int i = vertexIndex.computeIfAbsent(v, key -> vertexIndex.size());
+                members[k++] = i;
+                counts[i]++;
+            }
+            cliqueMembers[c] = members;
+        }
+
+        int n = vertexIndex.size();
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+        // Клики обходятся по возрастанию номера, поэтому номера клик каждой вершины получаются отсортированными
+        int[] cursor = Arrays.copyOf(offsets, n);
+        int[] cliqueIds = new int[total];
+        for (int c = 0; c < cliqueMembers.length; c++) {
+            for (int i : cliqueMembers[c]) {
+                cliqueIds[cursor[i]++] = c;
+            }
+        }
+        return new CliqueIndex(vertexIndex, cliqueMembers, offsets, cliqueIds);
+    }
+
+    boolean checkConsecutiveCliques(List<Set<Integer>> cliques, CliqueIndex cliqueIndex, List<Vertex> vertices) {
         // Получаем порядок клик, образующий путь
-        List<Integer> path = getCliquePathOrder(cliques);
+        List<Integer> path = getCliquePathOrder(cliques, cliqueIndex);
         if (path == null) {
-            System.out.println("Дерево клик не является путём");
+            if (tracing) System.out.println("Дерево клик не является путём");
             return false;
         }
 
-        // Проверка последовательности индексов клик для каждой вершины в порядке пути
+        // Позиция каждой клики в пути
+        int[] positionInPath = new int[cliques.size()];
+        for (int i = 0; i < path.size(); i++) {
+            positionInPath[path.get(i)] = i;
+        }
+
+        // Проверка последовательности позиций клик для каждой вершины за один проход по индексу.
+        // Проверки вершин независимы, поэтому на больших графах выполняются параллельно и без трассировки:
+        // System.out синхронизирован и сериализовал бы потоки
+        if (vertices.size() >= parallelThreshold) {
+            return vertices.parallelStream()
+                    .allMatch(vertex -> isVertexConsecutive(vertex.getId(), cliqueIndex, positionInPath, false));
+        }
         for (Vertex vertex : vertices) {
-            int vId = vertex.getId();
-            List<Integer> cliqueIndices = new ArrayList<>();
-            for (int i = 0; i < path.size(); i++) {
-                if (cliques.get(path.get(i)).contains(vId)) {
-                    cliqueIndices.add(i);
-                }
-            }
-            if (!isConsecutive(cliqueIndices)) {
-                System.out.println("Вершина " + vId + " имеет непоследовательные клики: " + cliqueIndices);
+            if (!isVertexConsecutive(vertex.getId(), cliqueIndex, positionInPath, tracing)) {
                 return false;
             }
         }
@@ -66,6 +223,31 @@ public class IsIntervalGraph implements GraphProperty {
         return true;
     }
 
+    private boolean isVertexConsecutive(int vId, CliqueIndex cliqueIndex, int[] positionInPath, boolean trace) {
+        Integer i = cliqueIndex.vertexIndex.get(vId);
+        if (i == null) return true;
+        int from = cliqueIndex.offsets[i];
+        int to = cliqueIndex.offsets[i + 1];
+        int first = Integer.MAX_VALUE;
+        int last = Integer.MIN_VALUE;
+        for (int k = from; k < to; k++) {
+            int pos = positionInPath[cliqueIndex.cliqueIds[k]];
+            if (pos < first) first = pos;
+            if (pos > last) last = pos;
+        }
+        if (last - first + 1 != to - from) { // Проверка, что нет пропусков
+            if (!trace) return false;
+            int[] positions = new int[to - from];
+            for (int k = from; k < to; k++) {
+                positions[k - from] = positionInPath[cliqueIndex.cliqueIds[k]];
+            }
+            Arrays.sort(positions);
+            System.out.println("Вершина " + vId + " имеет непоследовательные клики: " + Arrays.toString(positions));
+            return false;
+        }
+        return true;
+    }
+
     boolean isConsecutive(List<Integer> list) {
         if (list.isEmpty()) return true;
         int min = Collections.min(list);
@@ -74,26 +256,36 @@ public class IsIntervalGraph implements GraphProperty {
     }
 
     List<Integer> getCliquePathOrder(List<Set<Integer>> cliques) {
+        return getCliquePathOrder(cliques, buildCliqueIndex(cliques));
+    }
+
+    List<Integer> getCliquePathOrder(List<Set<Integer>> cliques, CliqueIndex cliqueIndex) {
         if (cliques.size() <= 2) {
             List<Integer> path = new ArrayList<>();
             for (int i = 0; i < cliques.size(); i++) path.add(i);
             return path;
         }
 
-        // Строим граф пересечений клик
+        // Строим граф пересечений клик: соседи клики — клики, содержащие хотя бы одну её вершину.
+        // Стоимость — Σ_v cnt(v)² (cnt(v) — число клик с вершиной v) плюс сортировка списков соседей:
+        // меньше нельзя, в графе пересечений может быть Θ(k²) рёбер. Это всё равно лучше прежних
+        // k² попарных пересечений множеств
         List<List<Integer>> intersectionGraph = new ArrayList<>();
+        int[] lastSeen = new int[cliques.size()];
+        Arrays.fill(lastSeen, -1);
         for (int i = 0; i < cliques.size(); i++) {
-            intersectionGraph.add(new ArrayList<>());
-        }
-        for (int i = 0; i < cliques.size(); i++) {
-            for (int j = i + 1; j < cliques.size(); j++) {
-                Set<Integer> intersection = new HashSet<>(cliques.get(i));
-                intersection.retainAll(cliques.get(j));
-                if (!intersection.isEmpty()) {
-                    intersectionGraph.get(i).add(j);
-                    intersectionGraph.get(j).add(i);
+            List<Integer> neighbors = new ArrayList<>();
+            for (int v : cliqueIndex.cliqueMembers[i]) {
+                for (int k = cliqueIndex.offsets[v]; k < cliqueIndex.offsets[v + 1]; k++) {
+                    int j = cliqueIndex.cliqueIds[k];
+                    if (j != i && lastSeen[j] != i) {
+                        lastSeen[j] = i;
+                        neighbors.add(j);
+                    }
                 }
             }
+            Collections.sort(neighbors);
+            intersectionGraph.add(neighbors);
         }
 
         // Проверяем связность графа с помощью BFS
@@ -111,7 +303,8 @@ public class IsIntervalGraph implements GraphProperty {
         // Если нет концов и ≥ 3 клики, это цикл (например, треугольник)
         if (endpoints == 0 && cliques.size() >= 3) return null;
 
-        // Пробуем построить путь с каждого возможного старта
+        // Пробуем построить путь с каждого возможного старта.
+        // Путь идёт только по рёбрам графа пересечений, поэтому соседние клики в нём всегда пересекаются
         for (int start = 0; start < cliques.size(); start++) {
             List<Integer> path = new ArrayList<>();
             visited = new boolean[cliques.size()];
@@ -133,22 +326,12 @@ public class IsIntervalGraph implements GraphProperty {
                 if (!extended) break;
             }
 
-            if (path.size() == cliques.size()) {
-                boolean valid = true;
-                for (int i = 0; i < path.size() - 1; i++) {
-                    Set<Integer> intersection = new HashSet<>(cliques.get(path.get(i)));
-                    intersection.retainAll(cliques.get(path.get(i + 1)));
-                    if (intersection.isEmpty()) {
-                        valid = false;
-                        break;
-                    }
-                }
-                if (valid) return path;
-            }
+            if (path.size() == cliques.size()) return path;
         }
 
         return null; // Нет подходящего пути
     }
+
     private void bfs(int start, List<List<Integer>> graph, boolean[] visited) {
         Queue<Integer> queue = new LinkedList<>();
         queue.add(start);
@@ -226,32 +409,51 @@ public class IsIntervalGraph implements GraphProperty {
     }
 
     boolean isPerfectEliminationOrder(Graph graph, List<Integer> order, Map<Integer, Set<Integer>> adjacencyMap) {
+        Map<Integer, Integer> positions = new HashMap<>();
         for (int i = 0; i < order.size(); i++) {
-            int vertex = order.get(i);
-            List<Integer> rightNeighbors = new ArrayList<>();
-            for (int j = i + 1; j < order.size(); j++) {
-                int u = order.get(j);
-                if (adjacencyMap.get(vertex).contains(u)) {
-                    rightNeighbors.add(u);
-                }
+            positions.put(order.get(i), i);
+        }
+        // Проверки вершин независимы, поэтому на больших графах выполняются параллельно и без трассировки
+        if (order.size() >= parallelThreshold) {
+            return IntStream.range(0, order.size()).parallel()
+                    .noneMatch(i -> hasUncoveredRightNeighbors(graph, order, i, positions, adjacencyMap, false));
+        }
+        for (int i = 0; i < order.size(); i++) {
+            if (hasUncoveredRightNeighbors(graph, order, i, positions, adjacencyMap, tracing)) {
+                return false;
             }
-            System.out.println("Вершина " + vertex + " правые соседи: " + rightNeighbors);
-            if (rightNeighbors.size() <= 1) continue;
-            for (int j = 0; j < rightNeighbors.size(); j++) {
-                int u1 = rightNeighbors.get(j);
-                for (int k = j + 1; k < rightNeighbors.size(); k++) {
-                    int u2 = rightNeighbors.get(k);
-                    if (!adjacencyMap.get(u1).contains(u2)) {
-                        System.out.println("Правые соседи вершины " + vertex + " (" + u1 + ", " + u2 + ") не связаны");
-                        if (checkForInducedC4(graph, vertex, u1, u2, adjacencyMap)) {
-                            System.out.println("Найден индуцированный C4 с вершинами " + vertex + ", " + u1 + ", " + u2);
-                            return false;
-                        }
+        }
+        return true;
+    }
+
+    private boolean hasUncoveredRightNeighbors(Graph graph, List<Integer> order, int i, Map<Integer, Integer> positions,
+                                               Map<Integer, Set<Integer>> adjacencyMap, boolean trace) {
+        int vertex = order.get(i);
+        // Правые соседи в порядке их следования в order
+        List<Integer> rightNeighbors = new ArrayList<>();
+        for (int u : adjacencyMap.get(vertex)) {
+            Integer pos = positions.get(u);
+            if (pos != null && pos > i) {
+                rightNeighbors.add(u);
+            }
+        }
+        rightNeighbors.sort(Comparator.comparing(positions::get));
+        if (trace) System.out.println("Вершина " + vertex + " правые соседи: " + rightNeighbors);
+        if (rightNeighbors.size() <= 1) return false;
+        for (int j = 0; j < rightNeighbors.size(); j++) {
+            int u1 = rightNeighbors.get(j);
+            for (int k = j + 1; k < rightNeighbors.size(); k++) {
+                int u2 = rightNeighbors.get(k);
+                if (!adjacencyMap.get(u1).contains(u2)) {
+                    if (trace) System.out.println("Правые соседи вершины " + vertex + " (" + u1 + ", " + u2 + ") не связаны");
+                    if (checkForInducedC4(graph, vertex, u1, u2, adjacencyMap)) {
+                        if (trace) System.out.println("Найден индуцированный C4 с вершинами " + vertex + ", " + u1 + ", " + u2);
+                        return true;
                     }
                 }
             }
         }
-        return true;
+        return false;
     }
 
     private boolean checkForInducedC4(Graph graph, int v, int u1, int u2, Map<Integer, Set<Integer>> adjacencyMap) {
@@ -291,17 +493,100 @@ public class IsIntervalGraph implements GraphProperty {
 
     Map<Integer, Set<Integer>> buildAdjacencyMap(Graph graph) {
         Map<Integer, Set<Integer>> adjacencyMap = new HashMap<>();
-        if (graph.getVertexList() == null || graph.getVertexList().isEmpty()) {
+        List<Vertex> vertices = graph.getVertexList();
+        if (vertices == null || vertices.isEmpty()) {
             return adjacencyMap;
         }
-        for (Vertex v : graph.getVertexList()) {
-            Set<Integer> neighbours = getNeighbours(graph, v.getId());
-            adjacencyMap.put(v.getId(), neighbours);
-            System.out.println("Neighbours of " + v.getId() + ": " + neighbours);
+        List<Edge> edges = graph.getEdgeList() == null ? Collections.emptyList() : graph.getEdgeList();
+        boolean parallel = edges.size() >= parallelThreshold;
+        int n = vertices.size();
+        int m = edges.size();
+
+        Map<Integer, Integer> indexOf = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            indexOf.put(vertices.get(i).getId(), i);
+        }
+
+        // Сортировка подсчётом списка рёбер в CSR: сначала степени, затем смещения, затем раскладка соседей
+        int[] offsets = new int[n + 1];
+        int[] targets = parallel
+                ? sortArcsParallel(edges, graph.isDirect(), indexOf, offsets)
+                : sortArcs(edges, graph.isDirect(), indexOf, offsets);
+
+        List<Set<Integer>> neighbourSets = new ArrayList<>(Collections.nCopies(n, null));
+        range(n, parallel).forEach(i -> {
+            Set<Integer> neighbours = new HashSet<>();
+            for (int k = offsets[i]; k < offsets[i + 1]; k++) {
+                neighbours.add(targets[k]);
+            }
+            neighbourSets.set(i, neighbours);
+        });
+
+        for (int i = 0; i < n; i++) {
+            adjacencyMap.put(vertices.get(i).getId(), neighbourSets.get(i));
+            if (tracing && !parallel) {
+                System.out.println("Neighbours of " + vertices.get(i).getId() + ": " + neighbourSets.get(i));
+            }
         }
         return adjacencyMap;
     }
 
+    private static int[] sortArcs(List<Edge> edges, boolean direct, Map<Integer, Integer> indexOf, int[] offsets) {
+        int n = offsets.length - 1;
+        int[] degrees = new int[n];
+        for (Edge edge : edges) {
+            forEachArc(edge, direct, indexOf, (from, to) -> degrees[from]++);
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + degrees[i];
+        }
+
+        int[] targets = new int[offsets[n]];
+        int[] cursor = Arrays.copyOf(offsets, n);
+        for (Edge edge : edges) {
+            forEachArc(edge, direct, indexOf, (from, to) -> targets[cursor[from]++] = to);
+        }
+        return targets;
+    }
+
+    // То же, что sortArcs, но рёбра обрабатываются в ForkJoinPool, поэтому счётчики атомарные
+    private static int[] sortArcsParallel(List<Edge> edges, boolean direct, Map<Integer, Integer> indexOf, int[] offsets) {
+        int n = offsets.length - 1;
+        AtomicIntegerArray degrees = new AtomicIntegerArray(n);
+        IntStream.range(0, edges.size()).parallel().forEach(e -> forEachArc(edges.get(e), direct, indexOf,
+                (from, to) -> degrees.incrementAndGet(from)));
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + degrees.get(i);
+        }
+
+        int[] targets = new int[offsets[n]];
+        AtomicIntegerArray cursor = new AtomicIntegerArray(Arrays.copyOf(offsets, n));
+        IntStream.range(0, edges.size()).parallel().forEach(e -> forEachArc(edges.get(e), direct, indexOf,
+                (from, to) -> targets[cursor.getAndIncrement(from)] = to));
+        return targets;
+    }
+
+    private interface ArcConsumer {
+        void accept(int from, int to);
+    }
+
+    // Дуги ребра с теми же правилами, что и в getNeighbours: петля даёт одну дугу, обратная — только для неориентированного графа
+    private static void forEachArc(Edge edge, boolean direct, Map<Integer, Integer> indexOf, ArcConsumer consumer) {
+        Integer source = indexOf.get(edge.getSource());
+        if (source != null) {
+            consumer.accept(source, edge.getTarget());
+        }
+        Integer target = indexOf.get(edge.getTarget());
+        if (target != null && !direct && edge.getSource() != edge.getTarget()) {
+            consumer.accept(target, edge.getSource());
+        }
+    }
+
+    private static IntStream range(int size, boolean parallel) {
+        IntStream stream = IntStream.range(0, size);
+        return parallel ? stream.parallel() : stream;
+    }
+
     Set<Integer> getNeighbours(Graph graph, int vertexId) {
         Set<Integer> neighbours = new HashSet<>();
         for (Edge edge : graph.getEdgeList()) {
@@ -344,7 +629,7 @@ public class IsIntervalGraph implements GraphProperty {
 
             order.add(maxVertex);
             unvisited.remove(maxVertex);
-            System.out.println("Выбрана вершина: " + maxVertex + ", Порядок: " + order);
+            if (tracing) System.out.println("Выбрана вершина: " + maxVertex + ", Порядок: " + order);
 
             for (int u : unvisited) {
                 if (adjacencyMap.get(maxVertex).contains(u)) {
@@ -353,7 +638,7 @@ public class IsIntervalGraph implements GraphProperty {
             }
         }
 
-        System.out.println("Порядок Lex-BFS: " + order);
+        if (tracing) System.out.println("Порядок Lex-BFS: " + order);
         return order;
     }
 }
\ No newline at end of file
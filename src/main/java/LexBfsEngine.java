@@ -0,0 +1,21 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Основной конвейер {@link IsIntervalGraph}: подходит для любых графов и не требует подготовки.
+ */
+public class LexBfsEngine implements RecognitionEngine {
+    static final String NAME = "lex-bfs";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean recognize(IsIntervalGraph pipeline, Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+        return pipeline.recognize(graph, adjacencyMap, stats);
+    }
+}
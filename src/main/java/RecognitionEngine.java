@@ -0,0 +1,27 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Движок распознавания интервальных графов. Реализации выбираются {@link EngineSelector} по {@link GraphStats}
+ * и на одном и том же графе обязаны давать тот же ответ, что и основной конвейер {@link LexBfsEngine}.
+ */
+public interface RecognitionEngine {
+    String name();
+
+    /**
+     * Может ли движок обработать граф с такой статистикой.
+     */
+    default boolean supports(GraphStats stats) {
+        return true;
+    }
+
+    /**
+     * @param pipeline     конвейер, из которого вызван движок: его шаги можно переиспользовать,
+     *                     от него же зависит, выводятся ли шаги алгоритма
+     * @param adjacencyMap список смежности, уже построенный конвейером
+     * @param stats        статистика графа, по которой был выбран движок
+     */
+    boolean recognize(IsIntervalGraph pipeline, Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats);
+}
@@ -0,0 +1,233 @@
+import ru.leti.wise.task.graph.model.Graph;
+import ru.leti.wise.task.graph.util.FileLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EngineSelectorTest {
+    private IsIntervalGraph check;
+    private EngineSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        selector = new EngineSelector();
+        check = new IsIntervalGraph(selector);
+    }
+
+    private Graph loadGraph(String fileName) throws Exception {
+        return FileLoader.loadGraphFromJson("src/test/resources/" + fileName);
+    }
+
+    // Полный граф K_n (для ориентированного — дуги i → j при i < j) в формате тестовых JSON-файлов
+    private Graph completeGraph(Path dir, int n, boolean direct) throws Exception {
+        StringJoiner edges = new StringJoiner(",\n");
+        for (int i = 1; i <= n; i++) {
+            for (int j = i + 1; j <= n; j++) {
+                edges.add("{\"color\": \"GRAY\", \"label\": \"\", \"source\": " + i + ", \"target\": " + j + ", \"weight\": 0}");
+            }
+        }
+        StringJoiner vertices = new StringJoiner(",\n");
+        for (int i = 1; i <= n; i++) {
+            vertices.add("{\"color\": \"GRAY\", \"id\": " + i + ", \"label\": \"" + i + "\", \"weight\": 0, "
+                    + "\"xCoordinate\": " + 10 * i + ", \"yCoordinate\": " + 10 * i + "}");
+        }
+        String json = "{\"edgeCount\": " + n * (n - 1) / 2 + ", \"edgeList\": [" + edges + "], "
+                + "\"id\": \"" + UUID.randomUUID() + "\", \"isDirect\": " + direct + ", \"isNamed\": false, "
+                + "\"vertexCount\": " + n + ", \"vertexList\": [" + vertices + "]}";
+        Path file = dir.resolve("complete_" + n + (direct ? "_direct" : "") + ".json");
+        Files.writeString(file, json);
+        return FileLoader.loadGraphFromJson(file.toString());
+    }
+
+    private GraphStats stats(Graph graph) {
+        return GraphStats.of(graph, check.buildAdjacencyMap(graph));
+    }
+
+    // === Тесты для GraphStats ===
+    @Test
+    void graphStats_Test1_IsForest() throws Exception {
+        GraphStats stats = stats(loadGraph("Test_1.json"));
+
+        assertThat(stats.vertexCount()).isEqualTo(4);
+        assertThat(stats.edgeCount()).isEqualTo(3);
+        assertThat(stats.maxDegree()).isEqualTo(2);
+        assertThat(stats.componentCount()).isEqualTo(1);
+        assertThat(stats.isForest()).isTrue();
+    }
+
+    @Test
+    void graphStats_Test8_IsCompleteTriangle() throws Exception {
+        GraphStats stats = stats(loadGraph("Test_8.json"));
+
+        assertThat(stats.edgeCount()).isEqualTo(3);
+        assertThat(stats.density()).isEqualTo(1.0);
+        assertThat(stats.isForest()).isFalse();
+    }
+
+    // === Тесты для select ===
+    @Test
+    void select_SparseForest_ReturnsLexBfsEngine() throws Exception {
+        assertThat(selector.select(stats(loadGraph("Test_1.json"))).name()).isEqualTo(LexBfsEngine.NAME);
+    }
+
+    @Test
+    void select_SmallGraph_ReturnsLexBfsEngine() throws Exception {
+        assertThat(selector.select(stats(loadGraph("Test_8.json"))).name()).isEqualTo(LexBfsEngine.NAME);
+    }
+
+    @Test
+    void select_TinyGraph_SkipsRegisteredEngines() throws Exception {
+        selector.register(new BitsetEngine(), stats -> true);
+
+        assertThat(selector.select(stats(loadGraph("Test_8.json"))).name()).isEqualTo(LexBfsEngine.NAME);
+    }
+
+    @Test
+    void select_LargeDenseGraph_ReturnsBitsetEngine(@TempDir Path dir) throws Exception {
+        int n = EngineSelector.DEFAULT_BITSET_MIN_VERTICES + 6;
+        GraphStats dense = stats(completeGraph(dir, n, false));
+        // Ориентированный вариант той же плотности битовый движок не поддерживает
+        GraphStats directed = stats(completeGraph(dir, n, true));
+
+        assertThat(dense.density()).isEqualTo(1.0);
+        assertThat(directed.density()).isEqualTo(0.5);
+        assertThat(selector.select(dense).name()).isEqualTo(BitsetEngine.NAME);
+        assertThat(selector.select(directed).name()).isEqualTo(LexBfsEngine.NAME);
+    }
+
+    @Test
+    void run_LargeDenseGraph_UsesBitsetEngine(@TempDir Path dir) throws Exception {
+        Graph graph = completeGraph(dir, EngineSelector.DEFAULT_BITSET_MIN_VERTICES + 6, false);
+
+        assertThat(selector.select(stats(graph)).name()).isEqualTo(BitsetEngine.NAME);
+        assertThat(check.run(graph)).isTrue();
+    }
+
+    // === Тесты согласованности движков ===
+    @Test
+    void bitsetEngine_MatchesLexBfsEngine() throws Exception {
+        RecognitionEngine lexBfs = new LexBfsEngine();
+        RecognitionEngine bitset = new BitsetEngine();
+        for (String file : List.of("Test_1.json", "Test_2.json", "Test_6.json", "Test_10.json", "Test_13.json", "Test_15.json",
+                "Test_16.json", "AnotherOne.json")) {
+            Graph graph = loadGraph(file);
+            Map<Integer, Set<Integer>> adjacencyMap = check.buildAdjacencyMap(graph);
+            GraphStats stats = GraphStats.of(graph, adjacencyMap);
+            assertThat(bitset.recognize(check, graph, adjacencyMap, stats))
+                    .isEqualTo(lexBfs.recognize(check, graph, adjacencyMap, stats));
+        }
+    }
+
+    // === Тесты регистрации движков ===
+    @Test
+    void register_CustomEngine_SelectedByItsRoute(@TempDir Path dir) throws Exception {
+        RecognitionEngine custom = new RecognitionEngine() {
+            @Override
+            public String name() {
+                return "custom";
+            }
+
+            @Override
+            public boolean recognize(IsIntervalGraph pipeline, Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+                return pipeline.recognize(graph, adjacencyMap, stats);
+            }
+        };
+        selector.register(custom, stats -> stats.density() == 1.0);
+        Graph complete = completeGraph(dir, 20, false);
+
+        assertThat(selector.select(stats(complete))).isSameAs(custom);
+        assertThat(selector.select(stats(loadGraph("Test_2.json"))).name()).isEqualTo(LexBfsEngine.NAME);
+        assertThat(selector.getEngines()).last().extracting(RecognitionEngine::name).isEqualTo(LexBfsEngine.NAME);
+        assertThat(check.run(complete)).isTrue();
+    }
+
+    @Test
+    void constructor_ServiceLoaderEngine_IsRegistered() {
+        assertThat(selector.getEngines()).extracting(RecognitionEngine::name)
+                .containsSubsequence(BitsetEngine.NAME, NeverRoutedEngine.NAME, LexBfsEngine.NAME);
+    }
+
+    // === Тесты калибровки ===
+    @Test
+    void calibrate_EmptySample_KeepsDefaults() {
+        selector.calibrate(Collections.emptyList());
+
+        assertThat(selector.getCalibratedRoutes()).isEmpty();
+    }
+
+    @Test
+    void calibrate_StoreAndLoad_RoundTripsRoutes(@TempDir Path dir) throws Exception {
+        selector.calibrate(List.of(loadGraph("Test_6.json"), loadGraph("Test_10.json"), loadGraph("Test_13.json")));
+        Path file = dir.resolve("engines.properties");
+        selector.store(file);
+
+        EngineSelector loaded = new EngineSelector();
+        loaded.load(file);
+
+        assertThat(selector.getCalibratedRoutes()).isNotEmpty();
+        assertThat(loaded.getCalibratedRoutes()).isEqualTo(selector.getCalibratedRoutes());
+    }
+
+    @Test
+    void load_CalibratedRoute_OverridesDefaultRoute(@TempDir Path dir) throws Exception {
+        GraphStats complete = stats(completeGraph(dir, 20, false));
+        Path file = dir.resolve("engines.properties");
+        Files.writeString(file, "route." + EngineSelector.groupOf(complete) + "=" + BitsetEngine.NAME + "\n");
+
+        assertThat(selector.select(complete).name()).isEqualTo(LexBfsEngine.NAME);
+        selector.load(file);
+        assertThat(selector.select(complete).name()).isEqualTo(BitsetEngine.NAME);
+    }
+
+    @Test
+    void calibrate_DoesNotTraceAlgorithmSteps() throws Exception {
+        List<Graph> sample = List.of(loadGraph("Test_6.json"), loadGraph("Test_10.json"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            selector.calibrate(sample);
+        } finally {
+            System.setOut(original);
+        }
+
+        // Печатается только итоговая строка с подобранными порогами
+        assertThat(output.toString(StandardCharsets.UTF_8).lines()).singleElement().asString().startsWith("Калибровка:");
+    }
+
+    // === Тесты загрузки маршрутов по умолчанию ===
+    @Test
+    void loadDefault_ThresholdsProperty_LoadsStoredRoutes(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("engines.properties");
+        Files.writeString(file, "route.undirected.4.3=bitset\n");
+        System.setProperty(EngineSelector.THRESHOLDS_PROPERTY, file.toString());
+        try {
+            EngineSelector loaded = EngineSelector.loadDefault();
+
+            assertThat(loaded.getCalibratedRoutes()).containsExactly(Map.entry("undirected.4.3", BitsetEngine.NAME));
+        } finally {
+            System.clearProperty(EngineSelector.THRESHOLDS_PROPERTY);
+        }
+    }
+
+    @Test
+    void loadDefault_MissingThresholdsFile_KeepsDefaults(@TempDir Path dir) {
+        System.setProperty(EngineSelector.THRESHOLDS_PROPERTY, dir.resolve("missing.properties").toString());
+        try {
+            EngineSelector loaded = EngineSelector.loadDefault();
+
+            assertThat(loaded.getCalibratedRoutes()).isEmpty();
+        } finally {
+            System.clearProperty(EngineSelector.THRESHOLDS_PROPERTY);
+        }
+    }
+}
@@ -88,6 +88,44 @@ class IntervalGraphCheckTest {
         assertThat(path).isNull();
     }
 
+    // === Тесты для buildCliqueIndex ===
+    @Test
+    void buildCliqueIndex_Test9_MapsVerticesToCliques() throws Exception {
+        Graph graph = loadGraph("Test_9.json");
+        Map<Integer, Set<Integer>> adjacencyMap = check.buildAdjacencyMap(graph);
+        List<Integer> order = check.performLexBFS(graph, adjacencyMap);
+        List<Set<Integer>> cliques = check.computeMaximalCliques(graph, order, adjacencyMap);
+        IsIntervalGraph.CliqueIndex index = check.buildCliqueIndex(cliques);
+
+        assertThat(index.vertexIndex).containsOnlyKeys(1, 2, 3, 4);
+        assertThat(index.offsets).hasSize(5);
+        assertThat(cliquesOf(index, 2)).containsExactly(0, 1);
+        assertThat(cliquesOf(index, 4)).containsExactly(0, 1);
+        assertThat(cliquesOf(index, 1)).hasSize(1);
+        assertThat(cliques.get(cliquesOf(index, 1)[0])).contains(1);
+    }
+
+    private static int[] cliquesOf(IsIntervalGraph.CliqueIndex index, int vertexId) {
+        int i = index.vertexIndex.get(vertexId);
+        return Arrays.copyOfRange(index.cliqueIds, index.offsets[i], index.offsets[i + 1]);
+    }
+
+    // === Тесты для isCaterpillarForest ===
+    @Test
+    void isCaterpillarForest_Test1_Path_ReturnsTrue() throws Exception {
+        Graph graph = loadGraph("Test_1.json");
+
+        assertThat(check.isCaterpillarForest(check.buildAdjacencyMap(graph))).isTrue();
+    }
+
+    @Test
+    void isCaterpillarForest_Test16_SpiderWithLongLegs_ReturnsFalse() throws Exception {
+        // Дерево с центром 1 и тремя ножками длины ≥ 2 не является гусеницей
+        Graph graph = loadGraph("Test_16.json");
+
+        assertThat(check.isCaterpillarForest(check.buildAdjacencyMap(graph))).isFalse();
+    }
+
     // === Тесты для getNeighbours ===
     @Test
     void getNeighbours_Test1_Vertex2_ReturnsCorrectNeighbours() throws Exception {
@@ -252,6 +290,59 @@ class IntervalGraphCheckTest {
 
 
 
+    // === Тесты параллельных этапов (порог 0 включает параллельный режим) ===
+    @Test
+    void buildAdjacencyMap_Parallel_MatchesSequential() throws Exception {
+        IsIntervalGraph parallelCheck = new IsIntervalGraph(0);
+        for (String file : List.of("Test_1.json", "Test_6.json", "Test_10.json", "ForOther.json")) {
+            Graph graph = loadGraph(file);
+            assertThat(parallelCheck.buildAdjacencyMap(graph)).isEqualTo(check.buildAdjacencyMap(graph));
+        }
+    }
+
+    @Test
+    void isPerfectEliminationOrder_Parallel_MatchesSequential() throws Exception {
+        IsIntervalGraph parallelCheck = new IsIntervalGraph(0);
+        // Test_9 и Test_10 хордальные, Test_2 — нет
+        Map<String, Boolean> expected = Map.of("Test_9.json", true, "Test_10.json", true, "Test_2.json", false);
+        for (Map.Entry<String, Boolean> e : expected.entrySet()) {
+            Graph graph = loadGraph(e.getKey());
+            Map<Integer, Set<Integer>> adjacencyMap = check.buildAdjacencyMap(graph);
+            List<Integer> order = check.performLexBFS(graph, adjacencyMap);
+
+            boolean sequential = check.isPerfectEliminationOrder(graph, order, adjacencyMap);
+            assertThat(sequential).isEqualTo(e.getValue());
+            assertThat(parallelCheck.isPerfectEliminationOrder(graph, order, adjacencyMap)).isEqualTo(sequential);
+        }
+    }
+
+    @Test
+    void checkConsecutiveCliques_Parallel_MatchesSequential() throws Exception {
+        IsIntervalGraph parallelCheck = new IsIntervalGraph(0);
+        // Test_10 и AnotherOne проходят проверку, у Test_13 клики не образуют путь
+        Map<String, Boolean> expected = Map.of("Test_10.json", true, "AnotherOne.json", true, "Test_13.json", false);
+        for (Map.Entry<String, Boolean> e : expected.entrySet()) {
+            Graph graph = loadGraph(e.getKey());
+            Map<Integer, Set<Integer>> adjacencyMap = check.buildAdjacencyMap(graph);
+            List<Integer> order = check.performLexBFS(graph, adjacencyMap);
+            List<Set<Integer>> cliques = check.computeMaximalCliques(graph, order, adjacencyMap);
+            IsIntervalGraph.CliqueIndex index = check.buildCliqueIndex(cliques);
+
+            boolean sequential = check.checkConsecutiveCliques(cliques, index, graph.getVertexList());
+            assertThat(sequential).isEqualTo(e.getValue());
+            assertThat(parallelCheck.checkConsecutiveCliques(cliques, index, graph.getVertexList())).isEqualTo(sequential);
+        }
+    }
+
+    @Test
+    void run_Parallel_MatchesSequential() throws Exception {
+        IsIntervalGraph parallelCheck = new IsIntervalGraph(0);
+        for (String file : List.of("Test_6.json", "Test_10.json", "Test_13.json", "Test_15.json", "AnotherOne.json")) {
+            Graph graph = loadGraph(file);
+            assertThat(parallelCheck.run(graph)).isEqualTo(check.run(graph));
+        }
+    }
+
     // === Тесты на интервальность (run) ===
     @Test
     void run_Test1_ReturnsTrue() throws Exception {
@@ -348,6 +439,12 @@ class IntervalGraphCheckTest {
         assertThat(check.run(graph)).isEqualTo(false);
     }
 
+    @Test
+    void run_Test16_SpiderWithLongLegs_ReturnsFalse() throws Exception {
+        Graph graph = loadGraph("Test_16.json");
+        assertThat(check.run(graph)).isEqualTo(false);
+    }
+
     @Test
     void run_Test17_ReturnsTrue() throws Exception {
         Graph graph = loadGraph("ForOther.json");
@@ -0,0 +1,26 @@
+import ru.leti.wise.task.graph.model.Graph;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Движок, подключаемый к тестам через ServiceLoader; не поддерживает ни один граф, поэтому не влияет на выбор.
+ */
+public class NeverRoutedEngine implements RecognitionEngine {
+    static final String NAME = "never-routed";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean supports(GraphStats stats) {
+        return false;
+    }
+
+    @Override
+    public boolean recognize(IsIntervalGraph pipeline, Graph graph, Map<Integer, Set<Integer>> adjacencyMap, GraphStats stats) {
+        return pipeline.recognize(graph, adjacencyMap, stats);
+    }
+}